@@ -0,0 +1,130 @@
+package org.example;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads the format written by BinaryCatalogWriter.
+// Lengths and counts come from the stream, so they are bounds checked and never used to presize anything.
+public class BinaryCatalogReader implements CatalogReader {
+    static final int MAX_STRING_BYTES = 16 * 1024 * 1024;
+    static final int MAX_LIST_SIZE = 16 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+    private int maxDictionarySize;
+
+    public BinaryCatalogReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    @Override
+    public long read(CatalogHandler handler) throws IOException {
+        if (in.readInt() != BinaryCatalogWriter.MAGIC) {
+            throw new IOException("Not a binary catalog");
+        }
+        int version = readVarint();
+        if (version != BinaryCatalogWriter.VERSION) {
+            throw new IOException("Unsupported catalog version " + version);
+        }
+        maxDictionarySize = readLength(MAX_LIST_SIZE, "dictionary size");
+
+        long records = 0;
+        while (true) {
+            int tag = in.readUnsignedByte();
+            if (tag == BinaryCatalogWriter.TAG_END) {
+                return records;
+            } else if (tag == BinaryCatalogWriter.TAG_BOOK) {
+                handler.onBook(readBook());
+            } else if (tag == BinaryCatalogWriter.TAG_USER) {
+                readUser(handler);
+            } else {
+                throw new IOException("Unknown record tag " + tag);
+            }
+            records++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Book readBook() throws IOException {
+        String title = readString();
+        String author = readString();
+        String genre = readString();
+        double price = in.readDouble();
+
+        int reviewCount = readLength(MAX_LIST_SIZE, "review count");
+        List<String> reviews = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            reviews.add(readString());
+        }
+        return new Book(title, author, genre, price, reviews);
+    }
+
+    private void readUser(CatalogHandler handler) throws IOException {
+        User user = new User(readString(), readString(), readString());
+
+        int titleCount = readLength(MAX_LIST_SIZE, "purchased book count");
+        List<String> purchasedTitles = new ArrayList<>();
+        for (int i = 0; i < titleCount; i++) {
+            purchasedTitles.add(readString());
+        }
+        handler.onUser(user, purchasedTitles);
+    }
+
+    private String readString() throws IOException {
+        int ref = readVarint();
+        if (ref == BinaryCatalogWriter.REF_NULL) {
+            return null;
+        }
+        if (ref >= BinaryCatalogWriter.REF_DICTIONARY_BASE) {
+            int index = ref - BinaryCatalogWriter.REF_DICTIONARY_BASE;
+            if (index >= dictionary.size()) {
+                throw new IOException("Unknown dictionary entry " + index);
+            }
+            return dictionary.get(index);
+        }
+
+        int length = readLength(MAX_STRING_BYTES, "string length");
+        byte[] bytes = in.readNBytes(length); // Grows with the data actually read, a bad length can't allocate it all up front
+        if (bytes.length != length) {
+            throw new EOFException("Catalog ends in the middle of a string");
+        }
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (ref == BinaryCatalogWriter.REF_DEFINE) {
+            if (dictionary.size() >= maxDictionarySize) {
+                throw new IOException("Dictionary grows past its size of " + maxDictionarySize);
+            }
+            dictionary.add(value);
+        }
+        return value;
+    }
+
+    private int readLength(int max, String what) throws IOException {
+        int value = readVarint();
+        if (value < 0 || value > max) {
+            throw new IOException("Bad " + what + " " + Integer.toUnsignedString(value));
+        }
+        return value;
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,132 @@
+package org.example;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compact binary catalog format:
+//   header  : magic "BKCT", version (varint), dictionary cap (varint)
+//   record  : tag byte (BOOK, USER or END) followed by the record's fields
+//   integers: unsigned varints, 7 bits per byte
+//   strings : varint ref, NULL, LITERAL + length + UTF-8 bytes, DEFINE + length + UTF-8 bytes
+//             (also appended to the string dictionary), or DICTIONARY_BASE + dictionary index
+// Titles, authors and genres repeat a lot so they go through the dictionary, which is capped to keep memory constant.
+// The cap is in the header so the reader can hold the writer to it.
+public class BinaryCatalogWriter implements CatalogWriter {
+    static final int MAGIC = 0x424B4354; // "BKCT"
+    static final int VERSION = 2;
+    static final int TAG_END = 0;
+    static final int TAG_BOOK = 1;
+    static final int TAG_USER = 2;
+
+    static final int REF_NULL = 0;
+    static final int REF_LITERAL = 1;
+    static final int REF_DEFINE = 2;
+    static final int REF_DICTIONARY_BASE = 3;
+    static final int DEFAULT_MAX_DICTIONARY_SIZE = 65_536;
+
+    private final DataOutputStream out;
+    private final int maxDictionarySize;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    public BinaryCatalogWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_MAX_DICTIONARY_SIZE);
+    }
+
+    public BinaryCatalogWriter(OutputStream out, int maxDictionarySize) throws IOException {
+        if (maxDictionarySize < 0 || maxDictionarySize > BinaryCatalogReader.MAX_LIST_SIZE) {
+            throw new IllegalArgumentException("Bad dictionary size " + maxDictionarySize);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.maxDictionarySize = maxDictionarySize;
+        this.out.writeInt(MAGIC);
+        writeVarint(VERSION);
+        writeVarint(maxDictionarySize);
+    }
+
+    @Override
+    public void writeBook(Book book) throws IOException {
+        out.writeByte(TAG_BOOK);
+        writeString(book.getTitle(), true);
+        writeString(book.getAuthor(), true);
+        writeString(book.getGenre(), true);
+        out.writeDouble(book.getPrice());
+
+        List<String> reviews = book.getReviews();
+        if (reviews == null) {
+            writeVarint(0); // No review list is written as an empty one
+            return;
+        }
+        writeVarint(reviews.size());
+        for (String review : reviews) {
+            writeString(review, false);
+        }
+    }
+
+    @Override
+    public void writeUser(User user) throws IOException {
+        out.writeByte(TAG_USER);
+        writeString(user.getUsername(), false);
+        writeString(user.getPassword(), false);
+        writeString(user.getEmail(), false);
+
+        List<Book> purchasedBooks = user.getPurchasedBooks();
+        if (purchasedBooks == null) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(purchasedBooks.size());
+        for (Book book : purchasedBooks) {
+            writeString(book == null ? null : book.getTitle(), true);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.writeByte(TAG_END);
+        out.close();
+    }
+
+    private void writeString(String value, boolean shared) throws IOException {
+        if (value == null) {
+            writeVarint(REF_NULL);
+            return;
+        }
+
+        if (shared) {
+            Integer index = dictionary.get(value);
+            if (index != null) {
+                writeVarint(REF_DICTIONARY_BASE + index);
+                return;
+            }
+            if (dictionary.size() < maxDictionarySize) {
+                dictionary.put(value, dictionary.size());
+                writeVarint(REF_DEFINE);
+                writeBytes(value);
+                return;
+            }
+        }
+
+        writeVarint(REF_LITERAL);
+        writeBytes(value);
+    }
+
+    private void writeBytes(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,174 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// "Top-selling" and "cheapest" books per genre, kept sorted as sales and prices change.
+// Each genre has two concurrent skip lists, so reading the top K is a walk of K nodes.
+// An update swaps the book's entry under a lock on that one book, other books are never blocked.
+// The new entry goes in before the old one comes out, so a reader may briefly see both but never neither;
+// firstK drops the second sighting of a book.
+public class BookLeaderboards {
+    private static final Comparator<Entry> BY_SALES = Comparator
+            .comparingLong((Entry e) -> -e.sales)
+            .thenComparingLong(e -> e.id);
+    private static final Comparator<Entry> BY_PRICE = Comparator
+            .comparingDouble((Entry e) -> e.price)
+            .thenComparingLong(e -> e.id);
+
+    private final Map<String, GenreBoard> boards = new ConcurrentHashMap<>();
+    private final Map<Book, BookState> states = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(); // Tie breaker, earlier books rank first on equal keys
+
+    public void addBook(Book book) {
+        states.computeIfAbsent(book, b -> {
+            BookState state = new BookState(nextId.getAndIncrement(), b.getGenre());
+            synchronized (state) {
+                state.entry = new Entry(b, state.id, 0, b.getPrice());
+                boardOf(state.genre).add(state.entry);
+            }
+            return state;
+        });
+    }
+
+    public void removeBook(Book book) {
+        BookState state = states.remove(book);
+        if (state != null) {
+            synchronized (state) {
+                boardOf(state.genre).remove(state.entry);
+                state.entry = null; // Late updates to a removed book are ignored
+            }
+        }
+    }
+
+    public void recordSale(Book book) {
+        BookState state = states.get(book);
+        if (state != null) {
+            synchronized (state) {
+                if (state.entry != null) {
+                    replace(state, new Entry(book, state.id, state.entry.sales + 1, state.entry.price));
+                }
+            }
+        }
+    }
+
+    public void updatePrice(Book book, double newPrice) {
+        BookState state = states.get(book);
+        if (state != null) {
+            synchronized (state) {
+                if (state.entry != null) {
+                    replace(state, new Entry(book, state.id, state.entry.sales, newPrice));
+                }
+            }
+        }
+    }
+
+    public long getSales(Book book) {
+        BookState state = states.get(book);
+        Entry entry = state == null ? null : state.entry;
+        return entry == null ? 0 : entry.sales;
+    }
+
+    public List<Book> getTopSelling(String genre, int k) {
+        GenreBoard board = boards.get(genreKey(genre));
+        return board == null ? new ArrayList<>() : firstK(board.bySales, k);
+    }
+
+    public List<Book> getCheapest(String genre, int k) {
+        GenreBoard board = boards.get(genreKey(genre));
+        return board == null ? new ArrayList<>() : firstK(board.byPrice, k);
+    }
+
+    // Caller holds the lock on state
+    private void replace(BookState state, Entry entry) {
+        GenreBoard board = boardOf(state.genre);
+        board.replace(state.entry, entry);
+        state.entry = entry;
+    }
+
+    private GenreBoard boardOf(String genre) {
+        return boards.computeIfAbsent(genreKey(genre), g -> new GenreBoard());
+    }
+
+    // Books without a genre share one board, ConcurrentHashMap can't hold a null key
+    private static String genreKey(String genre) {
+        return genre == null ? "" : genre;
+    }
+
+    private static List<Book> firstK(NavigableSet<Entry> entries, int k) {
+        List<Book> result = new ArrayList<>(Math.max(0, k));
+        Set<Book> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Iterator<Entry> iterator = entries.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            Book book = iterator.next().book;
+            if (seen.add(book)) {
+                result.add(book); // The old entry of a book being updated can still be in the list
+            }
+        }
+        return result;
+    }
+
+    // Snapshot of a book's ranking keys, never mutated so the skip lists stay ordered
+    private static final class Entry {
+        private final Book book;
+        private final long id;
+        private final long sales;
+        private final double price;
+
+        private Entry(Book book, long id, long sales, double price) {
+            this.book = book;
+            this.id = id;
+            this.sales = sales;
+            this.price = price;
+        }
+    }
+
+    private static final class BookState {
+        private final long id;
+        private final String genre; // Genre at the time the book was added
+        private volatile Entry entry; // Written under the lock on this, read without it
+
+        private BookState(long id, String genre) {
+            this.id = id;
+            this.genre = genre;
+        }
+    }
+
+    private static final class GenreBoard {
+        private final NavigableSet<Entry> bySales = new ConcurrentSkipListSet<>(BY_SALES);
+        private final NavigableSet<Entry> byPrice = new ConcurrentSkipListSet<>(BY_PRICE);
+
+        private void add(Entry entry) {
+            bySales.add(entry);
+            byPrice.add(entry);
+        }
+
+        private void remove(Entry entry) {
+            bySales.remove(entry);
+            byPrice.remove(entry);
+        }
+
+        private void replace(Entry oldEntry, Entry newEntry) {
+            replace(bySales, oldEntry, newEntry);
+            replace(byPrice, oldEntry, newEntry);
+        }
+
+        // Add first, then remove. An unchanged key (e.g. price on a sale) keeps its node, the book is the same.
+        private static void replace(NavigableSet<Entry> entries, Entry oldEntry, Entry newEntry) {
+            if (entries.comparator().compare(oldEntry, newEntry) != 0) {
+                entries.add(newEntry);
+                entries.remove(oldEntry);
+            }
+        }
+    }
+}
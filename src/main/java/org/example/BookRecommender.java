@@ -0,0 +1,124 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Item-to-item recommendations built from co-purchases.
+// Every purchase bumps the co-occurrence count between the new book and each book the user already owns,
+// and the top N similar books per title are kept up to date as the counts change.
+// Only books the recommender knows about (added, or bought through recordPurchase) count as earlier purchases,
+// so books removed from the catalog stay out even though they remain in users' purchase lists.
+public class BookRecommender {
+    public static final int DEFAULT_TOP_N = 10;
+
+    private final int topN;
+    private final Map<Book, Integer> bookIds = new HashMap<>(); // Book -> dense int id
+    private final List<Book> booksById = new ArrayList<>();
+    private final List<IntIntHashMap> coCounts = new ArrayList<>(); // Sparse row of co-purchase counts per book id
+    private final List<TopCounts> similar = new ArrayList<>(); // Precomputed top N per book id
+
+    public BookRecommender() {
+        this(DEFAULT_TOP_N);
+    }
+
+    public BookRecommender(int topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN must be positive");
+        }
+        this.topN = topN;
+    }
+
+    // Makes a catalog book known, so it counts when it shows up among a user's earlier purchases
+    public synchronized void addBook(Book book) {
+        idOf(book);
+    }
+
+    // Records that a user who already owns previousBooks bought book
+    public synchronized void recordPurchase(List<Book> previousBooks, Book book) {
+        int id = idOf(book);
+        for (int i = 0; i < previousBooks.size(); i++) {
+            Integer otherId = bookIds.get(previousBooks.get(i));
+            if (otherId == null) {
+                continue; // Removed from the catalog (or never added), no longer part of any recommendation
+            }
+            if (otherId != id) {
+                bump(id, otherId);
+                bump(otherId, id);
+            }
+        }
+    }
+
+    // Replays a batch of purchase histories, each list in the order the books were bought
+    public synchronized void recordPurchaseHistories(List<List<Book>> histories) {
+        for (List<Book> history : histories) {
+            for (int i = 0; i < history.size(); i++) { // From 0, so the first book is known before it counts as earlier
+                recordPurchase(history.subList(0, i), history.get(i));
+            }
+        }
+    }
+
+    // Returns the precomputed most similar books, most co-purchased first
+    public synchronized List<Book> getSimilarBooks(Book book) {
+        Integer id = bookIds.get(book);
+        if (id == null) {
+            return new ArrayList<>(); // Unknown book, nothing to recommend
+        }
+
+        TopCounts top = similar.get(id);
+        List<Book> result = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            result.add(booksById.get(top.idAt(i)));
+        }
+        return result;
+    }
+
+    // Stops recommending a removed book. If it is added or purchased again later it starts over with a fresh id.
+    public synchronized void forgetBook(Book book) {
+        Integer id = bookIds.remove(book);
+        if (id == null) {
+            return;
+        }
+
+        booksById.set(id, null);
+        IntIntHashMap row = coCounts.get(id);
+        coCounts.set(id, new IntIntHashMap());
+        similar.set(id, new TopCounts(topN));
+
+        // Only books co-purchased with it hold it in their row and maybe their top N, clean up just those
+        row.forEach((otherId, count) -> {
+            IntIntHashMap otherRow = coCounts.get(otherId);
+            otherRow.remove(id);
+            TopCounts top = new TopCounts(topN);
+            otherRow.forEach(top::offer);
+            similar.set(otherId, top);
+        });
+    }
+
+    public synchronized int getCoPurchaseCount(Book a, Book b) {
+        Integer idA = bookIds.get(a);
+        Integer idB = bookIds.get(b);
+        if (idA == null || idB == null) {
+            return 0;
+        }
+        return coCounts.get(idA).get(idB);
+    }
+
+    private void bump(int id, int otherId) {
+        int count = coCounts.get(id).addTo(otherId, 1);
+        similar.get(id).offer(otherId, count);
+    }
+
+    private int idOf(Book book) {
+        Integer id = bookIds.get(book);
+        if (id == null) {
+            id = booksById.size();
+            bookIds.put(book, id);
+            booksById.add(book);
+            coCounts.add(new IntIntHashMap());
+            similar.add(new TopCounts(topN));
+        }
+        return id;
+    }
+}
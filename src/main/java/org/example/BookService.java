@@ -2,30 +2,84 @@ package org.example;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class BookService {
     private List<Book> bookDatabase = new ArrayList<>(); // A list to simulate a book database
+    private BookRecommender recommender = new BookRecommender(); // Co-purchase based "similar books"
+    private ReviewAnalytics reviewAnalytics = new ReviewAnalytics(); // Review counts, keywords and sentiment
+    private FuzzyBookIndex fuzzyIndex = new FuzzyBookIndex(); // Typo tolerant search over titles, authors and genres
+    private BookLeaderboards leaderboards = new BookLeaderboards(); // Top-selling and cheapest books per genre
 
     public List<Book> searchBook(String keyword) {
         // Search book by title, author, or genre
-        return bookDatabase.stream()
-                .filter(book -> book.getTitle().contains(keyword) ||
-                        book.getAuthor().contains(keyword) ||
-                        book.getGenre().contains(keyword))
-                .collect(Collectors.toList());
+        List<Book> results = new ArrayList<>();
+        searchBook(new KeywordMatcher(keyword), results);
+        return results;
+    }
+
+    public int searchBook(KeywordMatcher matcher, List<Book> results) {
+        // Allocation free search: the matcher is created once by the caller and matches are appended to results,
+        // so callers can reuse both across queries. Returns the number of books added.
+        int found = 0;
+        for (int i = 0; i < bookDatabase.size(); i++) {
+            Book book = bookDatabase.get(i);
+            if (matcher.matches(book)) {
+                results.add(book);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public List<Book> searchBook(String keyword, int maxEdits) {
+        // Fuzzy search, tolerates up to maxEdits (1 or 2) typos per word of the keyword
+        return fuzzyIndex.search(keyword, maxEdits);
     }
 
     public boolean purchaseBook(User user, Book book) {
         // In real world, this should check user's balance, availability of the book, and then make a transaction
         // But for now, we just check if the book exists in our "database"
-        return bookDatabase.contains(book);
+        if (!bookDatabase.contains(book)) {
+            return false;
+        }
+
+        leaderboards.recordSale(book);
+        List<Book> purchasedBooks = user.getPurchasedBooks();
+        if (!purchasedBooks.contains(book)) {
+            recommender.recordPurchase(purchasedBooks, book); // Co-purchased with everything the user already owns
+            purchasedBooks.add(book);
+        }
+        return true;
+    }
+
+    public boolean changeBookPrice(Book book, double newPrice) {
+        // Goes through the service so the "cheapest" leaderboard sees the change, calling book.setPrice directly won't
+        if (!bookDatabase.contains(book)) {
+            return false;
+        }
+
+        book.setPrice(newPrice);
+        leaderboards.updatePrice(book, newPrice);
+        return true;
+    }
+
+    public List<Book> getTopSellingBooks(String genre, int k) {
+        return leaderboards.getTopSelling(genre, k);
+    }
+
+    public List<Book> getCheapestBooks(String genre, int k) {
+        return leaderboards.getCheapest(genre, k);
+    }
+
+    public List<Book> getSimilarBooks(Book book) {
+        return recommender.getSimilarBooks(book);
     }
 
     public boolean addBookReview(User user, Book book, String review) {
         if (bookDatabase.contains(book)) {
             if (user.getPurchasedBooks().contains(book)) {
                 book.getReviews().add(review);
+                reviewAnalytics.recordReview(book, review);
                 return true;
             }
         }
@@ -37,16 +91,54 @@ public class BookService {
             return false; // Book is already in the database
         }
 
+        // Side indexes first, so a book that can't be indexed never ends up half added
+        try {
+            fuzzyIndex.addBook(book);
+            leaderboards.addBook(book);
+            recommender.addBook(book);
+            if (book.getReviews() != null) {
+                for (String review : book.getReviews()) {
+                    reviewAnalytics.recordReview(book, review); // Books can arrive with reviews already attached
+                }
+            }
+        } catch (RuntimeException e) {
+            fuzzyIndex.removeBook(book);
+            leaderboards.removeBook(book);
+            recommender.forgetBook(book);
+            reviewAnalytics.forgetBook(book);
+            throw e;
+        }
+
         bookDatabase.add(book);
         return true; // Book added successfully
     }
 
     public boolean removeBook(Book book) {
-        return bookDatabase.remove(book); // Book removed successfully if it was in the database
+        if (!bookDatabase.remove(book)) {
+            return false;
+        }
+
+        fuzzyIndex.removeBook(book);
+        leaderboards.removeBook(book);
+        recommender.forgetBook(book);
+        reviewAnalytics.forgetBook(book);
+        return true; // Book removed successfully
     }
 
     // GETTER METHOD FOR THE BOOKDATABASE FIELD
     public List<Book> getBookDatabase() {
         return bookDatabase;
     }
+
+    public BookRecommender getRecommender() {
+        return recommender;
+    }
+
+    public ReviewAnalytics getReviewAnalytics() {
+        return reviewAnalytics;
+    }
+
+    public BookLeaderboards getLeaderboards() {
+        return leaderboards;
+    }
 }
@@ -0,0 +1,27 @@
+package org.example;
+
+import java.io.IOException;
+
+// Writes everything in the services out through a CatalogWriter, books first so purchases can be resolved on import
+public class CatalogExporter {
+    private final BookService bookService;
+    private final UserService userService;
+
+    public CatalogExporter(BookService bookService, UserService userService) {
+        this.bookService = bookService;
+        this.userService = userService;
+    }
+
+    public long export(CatalogWriter writer) throws IOException {
+        long records = 0;
+        for (Book book : bookService.getBookDatabase()) {
+            writer.writeBook(book);
+            records++;
+        }
+        for (User user : userService.getUsers()) {
+            writer.writeUser(user);
+            records++;
+        }
+        return records;
+    }
+}
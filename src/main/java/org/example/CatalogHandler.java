@@ -0,0 +1,11 @@
+package org.example;
+
+import java.util.List;
+
+// Receives records one at a time while a catalog is being read, so nothing has to hold the whole catalog
+public interface CatalogHandler {
+    void onBook(Book book);
+
+    // Purchased books travel as titles, it is up to the handler to resolve them
+    void onUser(User user, List<String> purchasedTitles);
+}
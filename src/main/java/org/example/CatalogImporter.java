@@ -0,0 +1,54 @@
+package org.example;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Loads records coming out of a CatalogReader into the services.
+// Users should come after the books they purchased, titles that can't be resolved are skipped.
+// Purchases are replayed into the recommender in their original order, so "similar books" survive the move.
+// Sales counts are not part of the catalog, so the bestseller leaderboards start over from zero.
+public class CatalogImporter implements CatalogHandler {
+    private final BookService bookService;
+    private final UserService userService;
+    private final Map<String, Book> booksByTitle = new HashMap<>();
+    private long skippedRecords;
+
+    public CatalogImporter(BookService bookService, UserService userService) {
+        this.bookService = bookService;
+        this.userService = userService;
+        for (Book book : bookService.getBookDatabase()) {
+            booksByTitle.putIfAbsent(book.getTitle(), book); // Titles already in the catalog can be purchased too
+        }
+    }
+
+    @Override
+    public void onBook(Book book) {
+        if (bookService.addBook(book)) {
+            booksByTitle.putIfAbsent(book.getTitle(), book);
+        } else {
+            skippedRecords++;
+        }
+    }
+
+    @Override
+    public void onUser(User user, List<String> purchasedTitles) {
+        if (!userService.registerUser(user)) {
+            skippedRecords++; // Username or email already taken
+            return;
+        }
+
+        List<Book> purchasedBooks = user.getPurchasedBooks();
+        for (String title : purchasedTitles) {
+            Book book = booksByTitle.get(title);
+            if (book != null && !purchasedBooks.contains(book)) {
+                bookService.getRecommender().recordPurchase(purchasedBooks, book); // Same signal as purchaseBook
+                purchasedBooks.add(book);
+            }
+        }
+    }
+
+    public long getSkippedRecords() {
+        return skippedRecords;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Streams catalog records in one at a time, returns the number of records read
+public interface CatalogReader extends Closeable {
+    long read(CatalogHandler handler) throws IOException;
+}
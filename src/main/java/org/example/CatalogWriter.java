@@ -0,0 +1,11 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Streams catalog records out one at a time
+public interface CatalogWriter extends Closeable {
+    void writeBook(Book book) throws IOException;
+
+    void writeUser(User user) throws IOException;
+}
@@ -0,0 +1,118 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads the format written by CsvCatalogWriter, one row at a time.
+// Quoted fields may span lines, so the input is read character by character rather than with readLine.
+public class CsvCatalogReader implements CatalogReader {
+    private final BufferedReader in;
+    private final List<String> fields = new ArrayList<>(); // Reused for every row
+    private final StringBuilder field = new StringBuilder();
+    private long rowNumber;
+
+    public CsvCatalogReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public long read(CatalogHandler handler) throws IOException {
+        long records = 0;
+        while (readRow()) {
+            rowNumber++;
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // Blank line
+            }
+
+            String type = fields.get(0);
+            if ("book".equals(type)) {
+                handler.onBook(toBook());
+            } else if ("user".equals(type)) {
+                requireColumns(4);
+                User user = new User(fields.get(1), fields.get(2), fields.get(3));
+                handler.onUser(user, new ArrayList<>(fields.subList(4, fields.size())));
+            } else {
+                throw new IOException("Unknown record type " + type + " in row " + rowNumber);
+            }
+            records++;
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Book toBook() throws IOException {
+        requireColumns(5);
+        double price;
+        try {
+            price = Double.parseDouble(fields.get(4));
+        } catch (NumberFormatException e) {
+            throw new IOException("Bad price in row " + rowNumber);
+        }
+        List<String> reviews = new ArrayList<>(fields.subList(5, fields.size()));
+        return new Book(fields.get(1), fields.get(2), fields.get(3), price, reviews);
+    }
+
+    private void requireColumns(int count) throws IOException {
+        if (fields.size() < count) {
+            throw new IOException("Expected at least " + count + " columns in row " + rowNumber);
+        }
+    }
+
+    // Reads the next row into fields, false at end of input
+    private boolean readRow() throws IOException {
+        fields.clear();
+        field.setLength(0);
+
+        int c = in.read();
+        if (c == -1) {
+            return false;
+        }
+
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field in row " + (rowNumber + 1));
+                }
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"'); // Doubled quote
+                    } else {
+                        quoted = false;
+                        in.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return true;
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// CSV catalog (RFC 4180 quoting), one record per row, lists spill into trailing columns:
+//   book,title,author,genre,price,review1,review2,...
+//   user,username,password,email,title1,title2,...
+// CSV has no null, so missing values are written as empty fields and a missing list as no columns.
+public class CsvCatalogWriter implements CatalogWriter {
+    private final Writer out;
+
+    public CsvCatalogWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeBook(Book book) throws IOException {
+        out.write("book");
+        writeField(book.getTitle());
+        writeField(book.getAuthor());
+        writeField(book.getGenre());
+        writeField(Double.toString(book.getPrice()));
+        if (book.getReviews() != null) {
+            for (String review : book.getReviews()) {
+                writeField(review);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void writeUser(User user) throws IOException {
+        out.write("user");
+        writeField(user.getUsername());
+        writeField(user.getPassword());
+        writeField(user.getEmail());
+        if (user.getPurchasedBooks() != null) {
+            for (Book book : user.getPurchasedBooks()) {
+                writeField(book == null ? null : book.getTitle());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        out.write(',');
+        if (value == null) {
+            return;
+        }
+
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"'); // Quotes are escaped by doubling them
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,203 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Typo tolerant lookup over the words of book titles, authors and genres.
+// The distinct words go into a BK-tree, so a query only computes edit distances
+// against the small part of the dictionary that the triangle inequality can't rule out.
+// A book stays indexed under the words it had when it was added; remove and add it again after changing its fields.
+public class FuzzyBookIndex {
+    public static final int MIN_EDITS = 1;
+    public static final int MAX_EDITS = 2;
+
+    private Node root;
+    private final Map<String, List<Book>> postings = new HashMap<>(); // Word -> books containing it
+    private final Map<Book, Set<String>> indexedTerms = new HashMap<>(); // Words each book was indexed under
+    private int[] previousRow = new int[16]; // Edit distance rows, reused across calls under the lock
+    private int[] currentRow = new int[16];
+
+    public synchronized void addBook(Book book) {
+        Set<String> terms = termsOf(book);
+        indexedTerms.put(book, terms); // Kept so removal still works after the book's fields are changed
+        for (String term : terms) {
+            List<Book> books = postings.get(term);
+            if (books == null) {
+                books = new ArrayList<>(1);
+                postings.put(term, books);
+                insert(term);
+            }
+            books.add(book);
+        }
+    }
+
+    // Words stay in the tree once seen, only their posting lists shrink
+    public synchronized void removeBook(Book book) {
+        Set<String> terms = indexedTerms.remove(book);
+        if (terms == null) {
+            return; // Never indexed
+        }
+
+        for (String term : terms) {
+            List<Book> books = postings.get(term);
+            if (books != null) {
+                books.remove(book);
+            }
+        }
+    }
+
+    // Books where every word of the keyword is within maxEdits of some word of the title, author or genre
+    public synchronized List<Book> search(String keyword, int maxEdits) {
+        if (maxEdits < MIN_EDITS || maxEdits > MAX_EDITS) {
+            throw new IllegalArgumentException("maxEdits must be between " + MIN_EDITS + " and " + MAX_EDITS);
+        }
+
+        Set<Book> result = null;
+        for (String word : tokenize(keyword)) {
+            Set<Book> matches = new LinkedHashSet<>();
+            collect(word, maxEdits, matches);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                break; // No point looking at the remaining words
+            }
+        }
+        return result == null ? new ArrayList<>() : new ArrayList<>(result);
+    }
+
+    private void insert(String term) {
+        if (root == null) {
+            root = new Node(term);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = editDistance(term, node.term, Integer.MAX_VALUE); // Edges need the exact distance
+            Node child = node.child(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(term));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private void collect(String word, int maxEdits, Set<Book> matches) {
+        if (root == null) {
+            return;
+        }
+
+        List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            // Past this limit the node is no match and no child edge is within maxEdits of the distance,
+            // so the exact value no longer matters. Just maxEdits would be too tight to prune the children.
+            int limit = Math.max(maxEdits, node.children.length - 1 + maxEdits);
+            int distance = editDistance(word, node.term, limit);
+            if (distance <= maxEdits) {
+                matches.addAll(postings.get(node.term));
+            }
+
+            // Only children at distance d - maxEdits .. d + maxEdits can hold a match
+            int from = Math.max(1, distance - maxEdits);
+            int to = Math.min(node.children.length - 1, distance + maxEdits);
+            for (int d = from; d <= to; d++) {
+                if (node.children[d] != null) {
+                    pending.add(node.children[d]);
+                }
+            }
+        }
+    }
+
+    // Levenshtein distance, or limit + 1 as soon as it is known to be larger than limit
+    int editDistance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1; // Every extra character costs an edit
+        }
+        if (previousRow.length <= b.length()) {
+            previousRow = new int[b.length() + 1];
+            currentRow = new int[b.length() + 1];
+        }
+
+        int[] previous = previousRow;
+        int[] current = currentRow;
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1; // Distances never shrink from one row to the next
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int distance = previous[b.length()];
+        return distance > limit ? limit + 1 : distance;
+    }
+
+    private static Set<String> termsOf(Book book) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(book.getTitle()));
+        terms.addAll(tokenize(book.getAuthor()));
+        terms.addAll(tokenize(book.getGenre()));
+        return terms;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words; // Missing fields have no words
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    private static class Node {
+        private final String term;
+        private Node[] children = new Node[0]; // Indexed by edit distance to this node's term
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        private Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
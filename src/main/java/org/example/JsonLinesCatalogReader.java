@@ -0,0 +1,180 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads the format written by JsonLinesCatalogWriter, one line at a time.
+// Only the flat objects the writer produces are understood: string, number and null values and arrays of strings.
+public class JsonLinesCatalogReader implements CatalogReader {
+    private final BufferedReader in;
+
+    // Parser state for the current line
+    private String line;
+    private int pos;
+    private int lineNumber;
+
+    public JsonLinesCatalogReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public long read(CatalogHandler handler) throws IOException {
+        long records = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            pos = 0;
+            readRecord(handler);
+            records++;
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readRecord(CatalogHandler handler) throws IOException {
+        String type = null;
+        String title = null, author = null, genre = null;
+        String username = null, password = null, email = null;
+        double price = 0;
+        List<String> list = new ArrayList<>();
+
+        expect('{');
+        if (peek() != '}') {
+            do {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "type" -> type = readString();
+                    case "title" -> title = readString();
+                    case "author" -> author = readString();
+                    case "genre" -> genre = readString();
+                    case "price" -> price = readNumber();
+                    case "username" -> username = readString();
+                    case "password" -> password = readString();
+                    case "email" -> email = readString();
+                    case "reviews", "purchasedBooks" -> list = readStringArray();
+                    default -> throw error("Unknown field " + key);
+                }
+            } while (consume(','));
+        }
+        expect('}');
+
+        if ("book".equals(type)) {
+            handler.onBook(new Book(title, author, genre, price, list));
+        } else if ("user".equals(type)) {
+            handler.onUser(new User(username, password, email), list);
+        } else {
+            throw error("Unknown record type " + type);
+        }
+    }
+
+    private List<String> readStringArray() throws IOException {
+        List<String> values = new ArrayList<>();
+        expect('[');
+        if (peek() != ']') {
+            do {
+                values.add(readString());
+            } while (consume(','));
+        }
+        expect(']');
+        return values;
+    }
+
+    private double readNumber() throws IOException {
+        skipWhitespace();
+        int start = pos;
+        while (pos < line.length() && "+-.eE0123456789".indexOf(line.charAt(pos)) >= 0) {
+            pos++;
+        }
+        try {
+            return Double.parseDouble(line.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("Bad number");
+        }
+    }
+
+    private String readString() throws IOException {
+        skipWhitespace();
+        if (line.startsWith("null", pos)) {
+            pos += 4;
+            return null;
+        }
+
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (pos < line.length()) {
+            char c = line.charAt(pos++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(pos++);
+            switch (escaped) {
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > line.length()) {
+                        throw error("Bad unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(line.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Bad unicode escape");
+                    }
+                    pos += 4;
+                }
+                default -> sb.append(escaped); // \" \\ and \/
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char peek() {
+        skipWhitespace();
+        return pos < line.length() ? line.charAt(pos) : 0;
+    }
+
+    private boolean consume(char c) {
+        if (peek() == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) throws IOException {
+        if (!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at line " + lineNumber + ", column " + (pos + 1));
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Line-delimited JSON, one record per line:
+//   {"type":"book","title":...,"author":...,"genre":...,"price":9.99,"reviews":[...]}
+//   {"type":"user","username":...,"password":...,"email":...,"purchasedBooks":[titles...]}
+// JSON has no NaN or Infinity, so books with such a price are rejected. A missing list is written as [].
+public class JsonLinesCatalogWriter implements CatalogWriter {
+    private final Writer out;
+
+    public JsonLinesCatalogWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeBook(Book book) throws IOException {
+        if (!Double.isFinite(book.getPrice())) {
+            // Checked before anything is written, so the output never holds half a record
+            throw new IOException("Book \"" + book.getTitle() + "\" has price " + book.getPrice()
+                    + ", which JSON can't represent");
+        }
+
+        out.write("{\"type\":\"book\",\"title\":");
+        writeString(book.getTitle());
+        out.write(",\"author\":");
+        writeString(book.getAuthor());
+        out.write(",\"genre\":");
+        writeString(book.getGenre());
+        out.write(",\"price\":");
+        out.write(Double.toString(book.getPrice()));
+        out.write(",\"reviews\":[");
+        List<String> reviews = book.getReviews() == null ? List.of() : book.getReviews();
+        for (int i = 0; i < reviews.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeString(reviews.get(i));
+        }
+        out.write("]}\n");
+    }
+
+    @Override
+    public void writeUser(User user) throws IOException {
+        out.write("{\"type\":\"user\",\"username\":");
+        writeString(user.getUsername());
+        out.write(",\"password\":");
+        writeString(user.getPassword());
+        out.write(",\"email\":");
+        writeString(user.getEmail());
+        out.write(",\"purchasedBooks\":[");
+        List<Book> purchasedBooks = user.getPurchasedBooks() == null ? List.of() : user.getPurchasedBooks();
+        for (int i = 0; i < purchasedBooks.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Book book = purchasedBooks.get(i);
+            writeString(book == null ? null : book.getTitle());
+        }
+        out.write("]}\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,26 @@
+package org.example;
+
+// A search keyword that callers can keep and reuse across queries, so the search loop allocates nothing.
+// It precompiles nothing: matching is plain String.indexOf, which the JIT already turns into a vectorized intrinsic.
+// A hand-written Boyer-Moore-Horspool matcher was measured slower for both short and long keywords, so it was dropped.
+public final class KeywordMatcher {
+    private final String keyword;
+
+    public KeywordMatcher(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    // Same result as text.contains(keyword), a missing (null) field matches nothing
+    public boolean matches(String text) {
+        return text != null && text.indexOf(keyword) >= 0;
+    }
+
+    // Title, author or genre contains the keyword
+    public boolean matches(Book book) {
+        return matches(book.getTitle()) || matches(book.getAuthor()) || matches(book.getGenre());
+    }
+}
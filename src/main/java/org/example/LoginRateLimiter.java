@@ -0,0 +1,226 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Throttles login attempts per key (a username or a source such as an IP address).
+// Each key gets a token bucket for its attempt rate, and too many failures within a window lock the key out for a while.
+// Bucket state is packed into a single AtomicLong so the hot path is one CAS, no locks.
+// Memory is bounded: when the table fills up, idle keys and then the least recently seen keys are evicted in one batch,
+// so new keys are never turned away and the sweep cost is spread over many attempts.
+public class LoginRateLimiter {
+    public static final int DEFAULT_BURST = 10;
+    public static final long DEFAULT_REFILL_MILLIS = 1_000;
+    public static final int DEFAULT_MAX_FAILURES = 5;
+    public static final long DEFAULT_FAILURE_WINDOW_MILLIS = 15 * 60 * 1_000;
+    public static final long DEFAULT_LOCKOUT_MILLIS = 15 * 60 * 1_000;
+    public static final int DEFAULT_MAX_TRACKED_KEYS = 100_000;
+
+    private static final int TOKEN_BITS = 16; // Low bits hold the tokens, the rest the last refill time
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final int burst;
+    private final long refillMillis;
+    private final int maxFailures;
+    private final long failureWindowMillis;
+    private final long lockoutMillis;
+    private final int maxTrackedKeys;
+    private final LongSupplier clock;
+
+    private final Map<String, KeyState> states = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(); // Only one thread sweeps at a time
+    private final LongAdder rejectedAttempts = new LongAdder();
+    private final LongAdder lockouts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LoginRateLimiter() {
+        this(DEFAULT_BURST, DEFAULT_REFILL_MILLIS, DEFAULT_MAX_FAILURES, DEFAULT_FAILURE_WINDOW_MILLIS,
+                DEFAULT_LOCKOUT_MILLIS, DEFAULT_MAX_TRACKED_KEYS, System::currentTimeMillis);
+    }
+
+    // Failures older than failureWindowMillis are forgotten, maxFailures within the window locks the key for lockoutMillis
+    public LoginRateLimiter(int burst, long refillMillis, int maxFailures, long failureWindowMillis, long lockoutMillis,
+                            int maxTrackedKeys, LongSupplier clock) {
+        if (burst <= 0 || burst > TOKEN_MASK) {
+            throw new IllegalArgumentException("burst must be between 1 and " + TOKEN_MASK);
+        }
+        if (refillMillis <= 0 || maxFailures <= 0 || failureWindowMillis <= 0 || lockoutMillis < 0
+                || maxTrackedKeys <= 0) {
+            throw new IllegalArgumentException("Rate limiter settings must be positive");
+        }
+        this.burst = burst;
+        this.refillMillis = refillMillis;
+        this.maxFailures = maxFailures;
+        this.failureWindowMillis = failureWindowMillis;
+        this.lockoutMillis = lockoutMillis;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.clock = clock;
+    }
+
+    // Takes one attempt from the key's bucket, false if the key is locked out or out of tokens
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        KeyState state = stateOf(key, now);
+        state.lastSeen = now;
+        if (state.lockedUntil.get() > now) {
+            rejectedAttempts.increment();
+            return false;
+        }
+
+        while (true) {
+            long current = state.bucket.get();
+            long refilled = refill(current, now);
+            if ((refilled & TOKEN_MASK) == 0) {
+                rejectedAttempts.increment();
+                return false;
+            }
+
+            if (state.bucket.compareAndSet(current, refilled - 1)) { // Take one token
+                return true;
+            }
+        }
+    }
+
+    public void recordFailure(String key) {
+        KeyState state = states.get(key);
+        if (state == null) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        long lastFailure = state.lastFailure.getAndSet(now);
+        if (now - lastFailure > failureWindowMillis) {
+            state.failures.set(0); // The earlier failures are too old to count
+        }
+        if (state.failures.incrementAndGet() >= maxFailures) {
+            state.failures.set(0);
+            state.lockedUntil.set(now + lockoutMillis);
+            lockouts.increment();
+        }
+    }
+
+    public void recordSuccess(String key) {
+        KeyState state = states.get(key);
+        if (state != null) {
+            state.failures.set(0);
+        }
+    }
+
+    public boolean isLockedOut(String key) {
+        KeyState state = states.get(key);
+        return state != null && state.lockedUntil.get() > clock.getAsLong();
+    }
+
+    public long getRejectedAttempts() {
+        return rejectedAttempts.sum();
+    }
+
+    public long getLockouts() {
+        return lockouts.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getTrackedKeys() {
+        return states.size();
+    }
+
+    private KeyState stateOf(String key, long now) {
+        KeyState state = states.get(key);
+        if (state != null) {
+            return state;
+        }
+
+        if (states.size() >= maxTrackedKeys) {
+            evict(now);
+        }
+        return states.computeIfAbsent(key, k -> new KeyState(pack(now, burst), now));
+    }
+
+    // Frees a quarter of the table in one pass: idle keys first, then the keys with the oldest activity.
+    // Locked out keys count as active until their lockout ends, so they are the last to go.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return; // Another thread is already making room, the table may overshoot by a few keys meanwhile
+        }
+
+        try {
+            int target = maxTrackedKeys - Math.max(1, maxTrackedKeys / 4);
+            List<Map.Entry<String, KeyState>> candidates = new ArrayList<>(states.size());
+            for (Map.Entry<String, KeyState> entry : states.entrySet()) {
+                if (isIdle(entry.getValue(), now)) {
+                    remove(entry.getKey(), entry.getValue());
+                } else {
+                    candidates.add(entry);
+                }
+            }
+            if (states.size() <= target) {
+                return;
+            }
+
+            candidates.sort((a, b) -> Long.compare(a.getValue().lastActive(), b.getValue().lastActive()));
+            for (int i = 0; i < candidates.size() && states.size() > target; i++) {
+                remove(candidates.get(i).getKey(), candidates.get(i).getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void remove(String key, KeyState state) {
+        if (states.remove(key, state)) {
+            evictions.increment();
+        }
+    }
+
+    // A full bucket, no recent failures and no lockout: forgetting the key changes nothing
+    private boolean isIdle(KeyState state, long now) {
+        return (refill(state.bucket.get(), now) & TOKEN_MASK) == burst
+                && (state.failures.get() == 0 || now - state.lastFailure.get() > failureWindowMillis)
+                && state.lockedUntil.get() <= now;
+    }
+
+    // Bucket state at time now, partial refill periods are carried over instead of lost
+    private long refill(long bucket, long now) {
+        long tokens = bucket & TOKEN_MASK;
+        long refilledAt = bucket >>> TOKEN_BITS;
+        long added = (now - refilledAt) / refillMillis;
+        if (added <= 0) {
+            return bucket;
+        }
+        if (tokens + added >= burst) {
+            return pack(now, burst);
+        }
+        return pack(refilledAt + added * refillMillis, tokens + added);
+    }
+
+    private static long pack(long millis, long tokens) {
+        return (millis << TOKEN_BITS) | tokens;
+    }
+
+    private static class KeyState {
+        private final AtomicLong bucket; // Last refill time << TOKEN_BITS | tokens
+        private final AtomicInteger failures = new AtomicInteger(); // Failures within the failure window
+        private final AtomicLong lastFailure = new AtomicLong();
+        private final AtomicLong lockedUntil = new AtomicLong();
+        private volatile long lastSeen;
+
+        private KeyState(long bucket, long now) {
+            this.bucket = new AtomicLong(bucket);
+            this.lastSeen = now;
+        }
+
+        private long lastActive() {
+            return Math.max(lastSeen, lockedUntil.get());
+        }
+    }
+}
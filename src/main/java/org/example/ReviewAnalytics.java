@@ -0,0 +1,165 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Incremental review aggregation: each review is tokenized once when it is added,
+// and per-book counts, term frequencies and a lexicon-based sentiment score are kept up to date.
+public class ReviewAnalytics {
+    public static final int DEFAULT_TOP_KEYWORDS = 10;
+
+    // A small sentiment lexicon, good enough for dashboards
+    private static final Set<String> POSITIVE_WORDS = Set.of(
+            "amazing", "awesome", "beautiful", "best", "brilliant", "captivating", "enjoyed", "excellent",
+            "fantastic", "favorite", "fun", "good", "great", "love", "loved", "masterpiece", "recommend",
+            "recommended", "wonderful");
+    private static final Set<String> NEGATIVE_WORDS = Set.of(
+            "awful", "bad", "boring", "confusing", "disappointing", "dull", "hate", "hated", "poor",
+            "slow", "terrible", "waste", "worse", "worst");
+    private static final Set<String> NEGATIONS = Set.of("not", "never", "no", "dont", "didnt", "isnt", "wasnt");
+
+    // Words too common to be useful as keywords
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "i", "in",
+            "is", "it", "its", "me", "my", "of", "on", "or", "so", "that", "the", "this", "to", "was", "were",
+            "with", "you");
+
+    private final int topKeywords;
+    private final Map<String, Integer> termIds = new HashMap<>(); // Shared term dictionary, term -> id
+    private final List<String> terms = new ArrayList<>();
+    private final Map<Book, ReviewStats> statsByBook = new HashMap<>();
+
+    public ReviewAnalytics() {
+        this(DEFAULT_TOP_KEYWORDS);
+    }
+
+    public ReviewAnalytics(int topKeywords) {
+        if (topKeywords <= 0) {
+            throw new IllegalArgumentException("topKeywords must be positive");
+        }
+        this.topKeywords = topKeywords;
+    }
+
+    public synchronized void recordReview(Book book, String review) {
+        ReviewStats stats = statsByBook.computeIfAbsent(book, b -> new ReviewStats(topKeywords));
+        stats.reviewCount++;
+
+        int sentiment = 0;
+        boolean negated = false;
+        int length = review == null ? 0 : review.length(); // A null review counts but has no words
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && isWordChar(review.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = normalize(review, start, i);
+                start = -1;
+                if (term.isEmpty()) {
+                    negated = false; // A stray apostrophe still separates the negation from what follows
+                    continue;
+                }
+
+                if (POSITIVE_WORDS.contains(term)) {
+                    sentiment += negated ? -1 : 1;
+                } else if (NEGATIVE_WORDS.contains(term)) {
+                    sentiment += negated ? 1 : -1;
+                }
+                negated = NEGATIONS.contains(term); // A negation only flips the word right after it
+
+                int termId = idOf(term);
+                int count = stats.termCounts.addTo(termId, 1);
+                if (!STOP_WORDS.contains(term)) {
+                    stats.keywords.offer(termId, count);
+                }
+            }
+        }
+        stats.sentimentSum += sentiment;
+    }
+
+    public synchronized void forgetBook(Book book) {
+        statsByBook.remove(book);
+    }
+
+    public synchronized int getReviewCount(Book book) {
+        ReviewStats stats = statsByBook.get(book);
+        return stats == null ? 0 : stats.reviewCount;
+    }
+
+    public synchronized int getTermFrequency(Book book, String term) {
+        ReviewStats stats = statsByBook.get(book);
+        Integer termId = termIds.get(normalize(term, 0, term.length()));
+        if (stats == null || termId == null) {
+            return 0;
+        }
+        return stats.termCounts.get(termId);
+    }
+
+    // Sum of lexicon hits over all reviews, positive words count +1 and negative words -1
+    public synchronized int getSentimentScore(Book book) {
+        ReviewStats stats = statsByBook.get(book);
+        return stats == null ? 0 : stats.sentimentSum;
+    }
+
+    public synchronized double getAverageSentiment(Book book) {
+        ReviewStats stats = statsByBook.get(book);
+        if (stats == null || stats.reviewCount == 0) {
+            return 0.0;
+        }
+        return (double) stats.sentimentSum / stats.reviewCount;
+    }
+
+    // Most frequent non stop words across the book's reviews, most frequent first
+    public synchronized List<String> getTopKeywords(Book book) {
+        ReviewStats stats = statsByBook.get(book);
+        if (stats == null) {
+            return new ArrayList<>();
+        }
+
+        List<String> result = new ArrayList<>(stats.keywords.size());
+        for (int i = 0; i < stats.keywords.size(); i++) {
+            result.add(terms.get(stats.keywords.idAt(i)));
+        }
+        return result;
+    }
+
+    private int idOf(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = terms.size();
+            termIds.put(term, id);
+            terms.add(term);
+        }
+        return id;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '\''; // Keep contractions in one piece
+    }
+
+    // Lower case letters and digits only, so "Don't" and "dont" end up as the same term
+    private static String normalize(String text, int start, int end) {
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class ReviewStats {
+        private int reviewCount;
+        private int sentimentSum;
+        private final IntIntHashMap termCounts = new IntIntHashMap(); // Term id -> occurrences
+        private final TopCounts keywords;
+
+        private ReviewStats(int topKeywords) {
+            keywords = new TopCounts(topKeywords);
+        }
+    }
+}
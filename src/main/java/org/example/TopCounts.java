@@ -0,0 +1,70 @@
+package org.example;
+
+// Keeps the N ids with the highest counts, sorted highest first.
+// Counts are only ever increased, so one insertion step per increment keeps the list exact.
+// Offering every (id, count) once to an empty list also builds the exact top N.
+class TopCounts {
+    private final int[] ids;
+    private final int[] counts;
+    private int size;
+
+    TopCounts(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        ids = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    // Called after the count for id has grown to newCount
+    public void offer(int id, int newCount) {
+        int pos = indexOf(id);
+        if (pos < 0) {
+            if (size < ids.length) {
+                pos = size++;
+            } else if (newCount > counts[size - 1]) {
+                pos = size - 1; // Push out the current last place
+            } else {
+                return; // Not enough to make the list
+            }
+            ids[pos] = id;
+        }
+        counts[pos] = newCount;
+
+        // Bubble up, ties keep the id that got there first
+        while (pos > 0 && counts[pos - 1] < counts[pos]) {
+            swap(pos, pos - 1);
+            pos--;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int idAt(int index) {
+        return ids[index];
+    }
+
+    public int countAt(int index) {
+        return counts[index];
+    }
+
+    private int indexOf(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        int count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+    }
+}
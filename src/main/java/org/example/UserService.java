@@ -1,41 +1,108 @@
 package org.example;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class UserService {
     // A simple map to simulate a database
     private Map<String, User> userDatabase = new HashMap<>();
+    private final Map<String, User> emailIndex = new ConcurrentHashMap<>(); // Normalized email -> user, emails are unique
+    private final LoginRateLimiter loginRateLimiter; // Throttles attempts per username and per source
+
+    public UserService() {
+        this(new LoginRateLimiter());
+    }
+
+    public UserService(LoginRateLimiter loginRateLimiter) {
+        this.loginRateLimiter = loginRateLimiter;
+    }
 
     public boolean registerUser(User user) {
         if (userDatabase.containsKey(user.getUsername())) {
             return false; // User already exists
         }
 
+        String emailKey = normalizeEmail(user.getEmail());
+        if (emailKey != null && emailIndex.putIfAbsent(emailKey, user) != null) {
+            return false; // Email already belongs to another account
+        }
+
         userDatabase.put(user.getUsername(), user);
         return true; // User registered successfully
     }
 
     public User loginUser(String username, String password) {
-        User user = userDatabase.get(username);
+        return loginUser(username, password, null);
+    }
 
-        if (user == null) {
-            return null; // User not found
+    public User loginUser(String username, String password, String sourceKey) {
+        // sourceKey identifies where the attempt comes from (e.g. an IP address), null if unknown
+        String userKey = "user:" + username;
+        String sourceLimiterKey = sourceKey == null ? null : "source:" + sourceKey;
+        // Source first, so a source that is already blocked can't drain the username's bucket
+        if (sourceLimiterKey != null && !loginRateLimiter.tryAcquire(sourceLimiterKey)) {
+            return null; // Too many attempts from this source
+        }
+        if (!loginRateLimiter.tryAcquire(userKey)) {
+            return null; // Too many attempts for this username
         }
 
-        if (!user.getPassword().equals(password)) {
-            return null; // Wrong password
+        User user = userDatabase.get(username);
+
+        if (user == null || !user.getPassword().equals(password)) {
+            loginRateLimiter.recordFailure(userKey);
+            if (sourceLimiterKey != null) {
+                loginRateLimiter.recordFailure(sourceLimiterKey);
+            }
+            return null; // User not found or wrong password
         }
 
+        loginRateLimiter.recordSuccess(userKey);
+        if (sourceLimiterKey != null) {
+            loginRateLimiter.recordSuccess(sourceLimiterKey);
+        }
         return user; // Login successful
     }
 
+    public User findByEmail(String email) {
+        String emailKey = normalizeEmail(email);
+        return emailKey == null ? null : emailIndex.get(emailKey);
+    }
+
+    public Collection<User> getUsers() {
+        return userDatabase.values();
+    }
+
+    public LoginRateLimiter getLoginRateLimiter() {
+        return loginRateLimiter;
+    }
+
     public boolean updateUserProfile(User user, String newUsername, String newPassword, String newEmail) {
         // logic to update user profile
-        if (userDatabase.containsKey(newUsername)) {
-            return false; // New username is already taken
+        if (userDatabase.get(user.getUsername()) != user) {
+            return false; // Only registered users can be updated, otherwise we'd index an email for nobody
+        }
+        if (!Objects.equals(newUsername, user.getUsername()) && userDatabase.containsKey(newUsername)) {
+            return false; // New username is already taken by someone else
         }
 
+        String oldEmailKey = normalizeEmail(user.getEmail());
+        String newEmailKey = normalizeEmail(newEmail);
+        if (newEmailKey != null && !newEmailKey.equals(oldEmailKey)) {
+            User owner = emailIndex.putIfAbsent(newEmailKey, user); // Claim the new email before changing anything
+            if (owner != null && owner != user) {
+                return false; // New email is already taken
+            }
+        }
+        if (oldEmailKey != null && !oldEmailKey.equals(newEmailKey)) {
+            emailIndex.remove(oldEmailKey, user); // Free the old email for other accounts
+        }
+
+        userDatabase.remove(user.getUsername(), user); // The old username no longer points at this user
         user.setUsername(newUsername);
         user.setPassword(newPassword);
         user.setEmail(newEmail);
@@ -44,4 +111,13 @@ public class UserService {
         return true; // User profile updated successfully
     }
 
+    // Emails are matched case-insensitively and without surrounding spaces, blank means no email
+    static String normalizeEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
 }
\ No newline at end of file
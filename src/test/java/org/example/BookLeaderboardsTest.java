@@ -0,0 +1,95 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+public class BookLeaderboardsTest {
+    private BookLeaderboards leaderboards;
+    private Book book1;
+    private Book book2;
+    private Book book3;
+
+//TEST SETUP: THREE BOOKS IN THE SAME GENRE
+    @BeforeEach
+    public void setUp() {
+        leaderboards = new BookLeaderboards();
+        book1 = new Book("Book 1", "Author 1", "Fiction", 12.99);
+        book2 = new Book("Book 2", "Author 2", "Fiction", 14.99);
+        book3 = new Book("Book 3", "Author 3", "Fiction", 9.99);
+        leaderboards.addBook(book1);
+        leaderboards.addBook(book2);
+        leaderboards.addBook(book3);
+    }
+
+// POSITIVE CASE: BEST SELLER COMES FIRST
+    @Test
+    public void testGetTopSelling() {
+        leaderboards.recordSale(book2);
+        leaderboards.recordSale(book2);
+        leaderboards.recordSale(book3);
+
+        Assertions.assertEquals(List.of(book2, book3), leaderboards.getTopSelling("Fiction", 2));
+    }
+
+// POSITIVE CASE: PRICE CHANGE MOVES THE BOOK IN THE CHEAPEST LIST
+    @Test
+    public void testGetCheapest_AfterPriceChange() {
+        Assertions.assertEquals(List.of(book3, book1, book2), leaderboards.getCheapest("Fiction", 3));
+
+        leaderboards.updatePrice(book2, 4.99);
+        Assertions.assertEquals(List.of(book2, book3), leaderboards.getCheapest("Fiction", 2));
+    }
+
+// NEGATIVE CASE: REMOVED BOOKS AND UNKNOWN GENRES ARE NOT LISTED
+    @Test
+    public void testRemoveBook_AndUnknownGenre() {
+        leaderboards.removeBook(book3);
+        leaderboards.recordSale(book3);
+
+        Assertions.assertFalse(leaderboards.getCheapest("Fiction", 3).contains(book3));
+        Assertions.assertTrue(leaderboards.getTopSelling("Poetry", 3).isEmpty());
+    }
+
+// EDGE CASE: CONCURRENT PURCHASES ARE ALL COUNTED AND THE BOOK IS LISTED ONCE
+    @Test
+    public void testRecordSale_Concurrent() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    leaderboards.recordSale(book1);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(4_000, leaderboards.getSales(book1));
+        Assertions.assertEquals(List.of(book1, book2, book3), leaderboards.getTopSelling("Fiction", 10));
+    }
+
+// EDGE CASE: READS WHILE PRICES CHANGE ALWAYS SEE EVERY BOOK EXACTLY ONCE
+    @Test
+    public void testGetCheapest_WhilePricesChange() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                leaderboards.updatePrice(book1, i % 2 == 0 ? 8.99 : 15.99); //MOVE BOOK 1 FROM FIRST TO LAST AND BACK
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            List<Book> cheapest = leaderboards.getCheapest("Fiction", 3);
+            Assertions.assertEquals(3, cheapest.size());
+            Assertions.assertEquals(3, new HashSet<>(cheapest).size());
+        }
+        writer.join();
+
+        Assertions.assertEquals(List.of(book3, book2, book1), leaderboards.getCheapest("Fiction", 10));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookRecommenderTest {
+    private BookRecommender recommender;
+    private Book book1;
+    private Book book2;
+    private Book book3;
+
+//TEST SETUP (BOOKS MUST BE KNOWN TO THE RECOMMENDER BEFORE THEY COUNT AS EARLIER PURCHASES)
+    @BeforeEach
+    public void setUp() {
+        recommender = new BookRecommender(2);
+        book1 = new Book("Book 1", "Author 1", "Genre 1", 12.99);
+        book2 = new Book("Book 2", "Author 2", "Genre 2", 14.99);
+        book3 = new Book("Book 3", "Author 3", "Genre 3", 9.99);
+        recommender.addBook(book1);
+        recommender.addBook(book2);
+        recommender.addBook(book3);
+    }
+
+// POSITIVE CASE: BOOKS BOUGHT TOGETHER ARE SIMILAR BOTH WAYS
+    @Test
+    public void testRecordPurchase_CoPurchase() {
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book2);
+
+        Assertions.assertEquals(List.of(book2), recommender.getSimilarBooks(book1));
+        Assertions.assertEquals(List.of(book1), recommender.getSimilarBooks(book2));
+        Assertions.assertEquals(1, recommender.getCoPurchaseCount(book1, book2));
+    }
+
+// POSITIVE CASE: MOST CO-PURCHASED BOOK COMES FIRST
+    @Test
+    public void testGetSimilarBooks_Ordering() {
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book2);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book3);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book3);
+
+        Assertions.assertEquals(List.of(book3, book2), recommender.getSimilarBooks(book1));
+    }
+
+// EDGE CASE: BOOK NEVER PURCHASED HAS NO RECOMMENDATIONS
+    @Test
+    public void testGetSimilarBooks_Unknown() {
+        Assertions.assertTrue(recommender.getSimilarBooks(book1).isEmpty());
+        Assertions.assertEquals(0, recommender.getCoPurchaseCount(book1, book2));
+    }
+
+// NEGATIVE CASE: A FORGOTTEN BOOK IS NO LONGER RECOMMENDED, THE NEXT BEST TAKES ITS PLACE
+    @Test
+    public void testForgetBook() {
+        Book book4 = new Book("Book 4", "Author 4", "Genre 4", 7.99);
+        recommender.addBook(book4);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book2);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book2);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book3);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book3);
+        recommender.recordPurchase(new ArrayList<>(List.of(book1)), book4); //BOOK4 DOES NOT FIT IN THE TOP 2
+
+        recommender.forgetBook(book2);
+
+        Assertions.assertEquals(List.of(book3, book4), recommender.getSimilarBooks(book1));
+        Assertions.assertTrue(recommender.getSimilarBooks(book2).isEmpty());
+        Assertions.assertEquals(0, recommender.getCoPurchaseCount(book1, book2));
+    }
+
+// NEGATIVE CASE: REMOVING A BOOK FROM THE SERVICE DROPS IT FROM RECOMMENDATIONS
+    @Test
+    public void testRemoveBook_ForgetsRecommendations() {
+        BookService bookService = new BookService();
+        User testUser = new User("testUser", "testPassword", "test@google.com");
+        bookService.addBook(book1);
+        bookService.addBook(book2);
+        bookService.purchaseBook(testUser, book1);
+        bookService.purchaseBook(testUser, book2);
+        Assertions.assertEquals(List.of(book2), bookService.getSimilarBooks(book1));
+
+        bookService.removeBook(book2);
+
+        Assertions.assertTrue(bookService.getSimilarBooks(book1).isEmpty());
+    }
+
+// NEGATIVE CASE: A REMOVED BOOK STILL IN A USER'S PURCHASES DOES NOT COME BACK ON THEIR NEXT PURCHASE
+    @Test
+    public void testRemoveBook_ThenBuyAnother() {
+        BookService bookService = new BookService();
+        User testUser = new User("testUser", "testPassword", "test@google.com");
+        bookService.addBook(book1);
+        bookService.addBook(book2);
+        bookService.addBook(book3);
+        bookService.purchaseBook(testUser, book1);
+        bookService.purchaseBook(testUser, book2);
+
+        bookService.removeBook(book2);
+        bookService.purchaseBook(testUser, book3);
+
+        Assertions.assertEquals(List.of(book1), bookService.getSimilarBooks(book3));
+        Assertions.assertEquals(List.of(book3), bookService.getSimilarBooks(book1));
+    }
+
+// EDGE CASE: UNKNOWN EARLIER PURCHASES ARE IGNORED, BATCH HISTORIES STILL COUNT EVERY PAIR
+    @Test
+    public void testRecordPurchase_UnknownEarlierBook() {
+        Book unknown = new Book("Unknown", "Nobody", "None", 1.99);
+        recommender.recordPurchase(new ArrayList<>(List.of(unknown)), book1);
+        Assertions.assertTrue(recommender.getSimilarBooks(book1).isEmpty());
+
+        BookRecommender fresh = new BookRecommender();
+        fresh.recordPurchaseHistories(List.of(List.of(book1, book2, book3)));
+        Assertions.assertEquals(1, fresh.getCoPurchaseCount(book1, book3));
+        Assertions.assertEquals(1, fresh.getCoPurchaseCount(book2, book3));
+    }
+}
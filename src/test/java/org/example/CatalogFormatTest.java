@@ -0,0 +1,182 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+public class CatalogFormatTest {
+    private BookService bookService;
+    private UserService userService;
+    private Book testBook;
+
+//TEST SETUP: ONE BOOK WITH A REVIEW, ONE USER WHO PURCHASED IT
+    @BeforeEach
+    public void setUp() {
+        bookService = new BookService();
+        userService = new UserService();
+        testBook = new Book("Test, \"Book\"", "Test Author", "Test Genre", 10.99);
+        User testUser = new User("testUser", "testPassword", "test@google.com");
+
+        bookService.addBook(testBook);
+        userService.registerUser(testUser);
+        bookService.purchaseBook(testUser, testBook);
+        bookService.addBookReview(testUser, testBook, "Great book,\nhighly recommend!");
+    }
+
+// POSITIVE CASE: BINARY EXPORT THEN IMPORT GIVES BACK THE SAME CATALOG
+    @Test
+    public void testBinary_RoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new BinaryCatalogWriter(out)) {
+            new CatalogExporter(bookService, userService).export(writer);
+        }
+
+        assertImported(new BinaryCatalogReader(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+// POSITIVE CASE: JSON LINES EXPORT THEN IMPORT GIVES BACK THE SAME CATALOG
+    @Test
+    public void testJsonLines_RoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new JsonLinesCatalogWriter(out)) {
+            new CatalogExporter(bookService, userService).export(writer);
+        }
+
+        assertImported(new JsonLinesCatalogReader(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+// POSITIVE CASE: CSV EXPORT THEN IMPORT GIVES BACK THE SAME CATALOG (QUOTED COMMAS, QUOTES AND NEWLINES)
+    @Test
+    public void testCsv_RoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new CsvCatalogWriter(out)) {
+            new CatalogExporter(bookService, userService).export(writer);
+        }
+
+        assertImported(new CsvCatalogReader(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+// NEGATIVE CASE: INPUT THAT IS NOT A BINARY CATALOG IS REJECTED
+    @Test
+    public void testBinary_BadMagic() {
+        CatalogReader reader = new BinaryCatalogReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+        BookService target = new BookService();
+        Assertions.assertThrows(IOException.class, () -> reader.read(new CatalogImporter(target, new UserService())));
+    }
+
+// NEGATIVE CASE: A CORRUPT LENGTH IS REJECTED WITH AN IOEXCEPTION INSTEAD OF ALLOCATING IT
+    @Test
+    public void testBinary_OversizedLength() {
+        byte[] corrupt = {0x42, 0x4B, 0x43, 0x54, 2, 0, // MAGIC, VERSION, DICTIONARY SIZE 0
+                1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}; // BOOK, LITERAL, LENGTH 2^31 - 1
+        CatalogReader reader = new BinaryCatalogReader(new ByteArrayInputStream(corrupt));
+        Assertions.assertThrows(IOException.class, () -> reader.read(new CatalogImporter(new BookService(), new UserService())));
+    }
+
+// NEGATIVE CASE: A NEGATIVE COUNT IS REJECTED WITH AN IOEXCEPTION
+    @Test
+    public void testBinary_NegativeCount() {
+        byte[] corrupt = {0x42, 0x4B, 0x43, 0x54, 2, 0, // MAGIC, VERSION, DICTIONARY SIZE 0
+                1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, // BOOK, NULL TITLE/AUTHOR/GENRE, PRICE 0.0
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}; // REVIEW COUNT -1
+        CatalogReader reader = new BinaryCatalogReader(new ByteArrayInputStream(corrupt));
+        Assertions.assertThrows(IOException.class, () -> reader.read(new CatalogImporter(new BookService(), new UserService())));
+    }
+
+// NEGATIVE CASE: DEFINING MORE DICTIONARY STRINGS THAN THE HEADER ALLOWS IS REJECTED
+    @Test
+    public void testBinary_DictionaryOverflow() {
+        byte[] corrupt = {0x42, 0x4B, 0x43, 0x54, 2, 1, // MAGIC, VERSION, DICTIONARY SIZE 1
+                1, 2, 1, 'a', 2, 1, 'b'}; // BOOK, DEFINE "a", DEFINE "b"
+        CatalogReader reader = new BinaryCatalogReader(new ByteArrayInputStream(corrupt));
+        Assertions.assertThrows(IOException.class, () -> reader.read(new CatalogImporter(new BookService(), new UserService())));
+    }
+
+// NEGATIVE CASE: JSON CAN'T HOLD A NAN PRICE, THE WRITER SAYS SO AND WRITES NOTHING
+    @Test
+    public void testJsonLines_NonFinitePrice() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new JsonLinesCatalogWriter(out)) {
+            Assertions.assertThrows(IOException.class,
+                    () -> writer.writeBook(new Book("Test Book", "Test Author", "Test Genre", Double.NaN)));
+        }
+        Assertions.assertEquals(0, out.size());
+    }
+
+// EDGE CASE: A BOOK WITHOUT A REVIEW LIST IS EXPORTED WITH NO REVIEWS IN EVERY FORMAT
+    @Test
+    public void testNullReviews_RoundTrip() throws IOException {
+        Book book = new Book("Test Book", "Test Author", "Test Genre", 10.99, null);
+        CatalogWriter[] writers = new CatalogWriter[3];
+        ByteArrayOutputStream[] outs = new ByteArrayOutputStream[3];
+        for (int i = 0; i < 3; i++) {
+            outs[i] = new ByteArrayOutputStream();
+        }
+        writers[0] = new BinaryCatalogWriter(outs[0]);
+        writers[1] = new JsonLinesCatalogWriter(outs[1]);
+        writers[2] = new CsvCatalogWriter(outs[2]);
+
+        for (int i = 0; i < 3; i++) {
+            try (CatalogWriter writer = writers[i]) {
+                writer.writeBook(book);
+            }
+        }
+
+        CatalogReader[] readers = {
+                new BinaryCatalogReader(new ByteArrayInputStream(outs[0].toByteArray())),
+                new JsonLinesCatalogReader(new ByteArrayInputStream(outs[1].toByteArray())),
+                new CsvCatalogReader(new ByteArrayInputStream(outs[2].toByteArray()))};
+        for (CatalogReader reader : readers) {
+            BookService importedBooks = new BookService();
+            try (reader) {
+                reader.read(new CatalogImporter(importedBooks, new UserService()));
+            }
+            Assertions.assertTrue(importedBooks.getBookDatabase().get(0).getReviews().isEmpty());
+        }
+    }
+
+// POSITIVE CASE: CO-PURCHASES SURVIVE AN EXPORT AND IMPORT, SO RECOMMENDATIONS DO TOO
+    @Test
+    public void testJsonLines_KeepsRecommendations() throws IOException {
+        Book otherBook = new Book("Other Book", "Other Author", "Test Genre", 5.99);
+        bookService.addBook(otherBook);
+        bookService.purchaseBook(userService.loginUser("testUser", "testPassword"), otherBook);
+        Assertions.assertEquals(1, bookService.getSimilarBooks(otherBook).size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new JsonLinesCatalogWriter(out)) {
+            new CatalogExporter(bookService, userService).export(writer);
+        }
+        BookService importedBooks = new BookService();
+        try (CatalogReader reader = new JsonLinesCatalogReader(new ByteArrayInputStream(out.toByteArray()))) {
+            reader.read(new CatalogImporter(importedBooks, new UserService()));
+        }
+
+        Book importedOther = importedBooks.getBookDatabase().get(1);
+        Assertions.assertEquals(List.of(importedBooks.getBookDatabase().get(0)), importedBooks.getSimilarBooks(importedOther));
+    }
+
+    private void assertImported(CatalogReader reader) throws IOException {
+        BookService importedBooks = new BookService();
+        UserService importedUsers = new UserService();
+        try (reader) {
+            Assertions.assertEquals(2, reader.read(new CatalogImporter(importedBooks, importedUsers)));
+        }
+
+        Assertions.assertEquals(1, importedBooks.getBookDatabase().size());
+        Book book = importedBooks.getBookDatabase().get(0);
+        Assertions.assertEquals(testBook.getTitle(), book.getTitle());
+        Assertions.assertEquals(testBook.getPrice(), book.getPrice());
+        Assertions.assertEquals(testBook.getReviews(), book.getReviews());
+
+        User user = importedUsers.loginUser("testUser", "testPassword");
+        Assertions.assertNotNull(user);
+        Assertions.assertEquals("test@google.com", user.getEmail());
+        Assertions.assertSame(book, user.getPurchasedBooks().get(0)); //VERIFY PURCHASE POINTS AT THE IMPORTED BOOK
+    }
+}
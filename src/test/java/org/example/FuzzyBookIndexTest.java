@@ -0,0 +1,76 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class FuzzyBookIndexTest {
+    private BookService bookService;
+    private Book book1;
+    private Book book2;
+
+//TEST SETUP: THE BOOKS FROM MAIN
+    @BeforeEach
+    public void setUp() {
+        bookService = new BookService();
+        book1 = new Book("1984", "George Orwell", "Dystopian", 9.99);
+        book2 = new Book("To Kill a Mockingbird", "Harper Lee", "Fiction", 14.99);
+        bookService.addBook(book1);
+        bookService.addBook(book2);
+    }
+
+// POSITIVE CASE: MISSPELLED AUTHOR AND TITLE STILL FIND THEIR BOOK
+    @Test
+    public void testSearchBook_Typos() {
+        Assertions.assertEquals(List.of(book1), bookService.searchBook("Orwel", 1));
+        Assertions.assertEquals(List.of(book2), bookService.searchBook("Mockingbrd", 1));
+        Assertions.assertEquals(List.of(book2), bookService.searchBook("harpr mockinbird", 2)); //VERIFY EVERY WORD MUST MATCH
+    }
+
+// NEGATIVE CASE: TOO MANY TYPOS OR AN UNKNOWN WORD FIND NOTHING
+    @Test
+    public void testSearchBook_NoMatch() {
+        Assertions.assertTrue(bookService.searchBook("Orwl 1948", 1).isEmpty());
+        Assertions.assertTrue(bookService.searchBook("Orwell Mockingbird", 2).isEmpty());
+    }
+
+// NEGATIVE CASE: MAXEDITS OUTSIDE 1..2 IS REJECTED
+    @Test
+    public void testSearchBook_MaxEditsBounds() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bookService.searchBook("Orwel", 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bookService.searchBook("Orwel", 3));
+    }
+
+// NEGATIVE CASE: REMOVED BOOKS ARE NOT FOUND, EVEN IF THEIR FIELDS CHANGED AFTER BEING ADDED
+    @Test
+    public void testRemoveBook_NoStalePostings() {
+        book1.setAuthor("Eric Blair");
+        bookService.removeBook(book1);
+
+        Assertions.assertTrue(bookService.searchBook("Orwel", 1).isEmpty());
+        Assertions.assertTrue(bookService.searchBook("Blair", 1).isEmpty());
+    }
+
+// EDGE CASE: A BOOK WITH MISSING FIELDS IS FULLY ADDED AND SEARCHABLE BY ITS OTHER WORDS
+    @Test
+    public void testAddBook_NullFields() {
+        Book book = new Book("Untitled Notes", "Anonymous", null, 1.99);
+
+        Assertions.assertTrue(bookService.addBook(book));
+        Assertions.assertEquals(List.of(book), bookService.searchBook("Anonymus", 1));
+        Assertions.assertEquals(List.of(book), bookService.getCheapestBooks(null, 1));
+    }
+
+// EDGE CASE: EDIT DISTANCE IS EXACT UP TO THE LIMIT AND STOPS AT LIMIT + 1 PAST IT
+    @Test
+    public void testEditDistance_Limit() {
+        FuzzyBookIndex index = new FuzzyBookIndex();
+
+        Assertions.assertEquals(3, index.editDistance("kitten", "sitting", 10));
+        Assertions.assertEquals(3, index.editDistance("kitten", "sitting", 3));
+        Assertions.assertEquals(2, index.editDistance("kitten", "sitting", 1)); //VERIFY CUT OFF AT LIMIT + 1
+        Assertions.assertEquals(2, index.editDistance("a", "abcdef", 1)); //VERIFY LENGTH DIFFERENCE SHORTCUT
+    }
+}
@@ -0,0 +1,74 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeywordMatcherTest {
+    private BookService bookService;
+    private Book book1;
+    private Book book2;
+
+//TEST SETUP
+    @BeforeEach
+    public void setUp() {
+        bookService = new BookService();
+        book1 = new Book("Book 1", "Author 1", "Genre 1", 12.99);
+        book2 = new Book("Book 2", "Author 2", "Genre 2", 14.99);
+        bookService.addBook(book1);
+        bookService.addBook(book2);
+    }
+
+// POSITIVE CASE: MATCHES ARE APPENDED TO THE CALLER'S LIST AND COUNTED
+    @Test
+    public void testSearchBook_AppendsToCallerList() {
+        Book earlier = new Book("Earlier Result", "Someone", "Other", 1.99);
+        List<Book> results = new ArrayList<>(List.of(earlier));
+
+        int found = bookService.searchBook(new KeywordMatcher("Author"), results);
+
+        Assertions.assertEquals(2, found);
+        Assertions.assertEquals(List.of(earlier, book1, book2), results); //VERIFY EXISTING ENTRIES ARE KEPT
+    }
+
+// POSITIVE CASE: THE SAME MATCHER AND LIST CAN BE REUSED, RESULTS AGREE WITH SEARCHBOOK(STRING)
+    @Test
+    public void testSearchBook_ReusedMatchesStringSearch() {
+        List<Book> results = new ArrayList<>();
+        for (String keyword : new String[]{"Author", "Book 2", "Genre 1", "", "Missing"}) {
+            KeywordMatcher matcher = new KeywordMatcher(keyword);
+            results.clear();
+
+            int found = bookService.searchBook(matcher, results);
+
+            Assertions.assertEquals(bookService.searchBook(keyword), results);
+            Assertions.assertEquals(results.size(), found);
+        }
+    }
+
+// EDGE CASE: MATCHING IS CASE-SENSITIVE LIKE STRING.CONTAINS
+    @Test
+    public void testMatches_SameAsContains() {
+        KeywordMatcher matcher = new KeywordMatcher("Author");
+
+        Assertions.assertTrue(matcher.matches("Test Author"));
+        Assertions.assertFalse(matcher.matches("test author"));
+        Assertions.assertFalse(matcher.matches("Auth"));
+        Assertions.assertTrue(new KeywordMatcher("").matches(""));
+    }
+
+// EDGE CASE: A BOOK WITH MISSING FIELDS IS SKIPPED INSTEAD OF BREAKING THE SEARCH
+    @Test
+    public void testSearchBook_NullFields() {
+        Book untitled = new Book(null, "Author 3", null, 9.99);
+        bookService.addBook(untitled);
+
+        Assertions.assertFalse(new KeywordMatcher("Book").matches((String) null));
+        Assertions.assertEquals(List.of(untitled), bookService.searchBook("Author 3"));
+        Assertions.assertTrue(bookService.searchBook("zzz").isEmpty());
+        Assertions.assertEquals(0, bookService.searchBook(new KeywordMatcher("zzz"), new ArrayList<>()));
+    }
+}
@@ -0,0 +1,122 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LoginRateLimiterTest {
+    private long now;
+    private LoginRateLimiter limiter;
+
+//TEST SETUP: BURST OF 2, ONE TOKEN PER SECOND, LOCKOUT AFTER 3 FAILURES WITHIN 10 SECONDS FOR 60 SECONDS, AT MOST 4 KEYS
+    @BeforeEach
+    public void setUp() {
+        now = 1_000_000;
+        limiter = new LoginRateLimiter(2, 1_000, 3, 10_000, 60_000, 4, () -> now);
+    }
+
+// POSITIVE CASE: ATTEMPTS WITHIN THE BURST ARE ALLOWED, THEN REFILLED OVER TIME
+    @Test
+    public void testTryAcquire_BurstAndRefill() {
+        Assertions.assertTrue(limiter.tryAcquire("user:testUser"));
+        Assertions.assertTrue(limiter.tryAcquire("user:testUser"));
+        Assertions.assertFalse(limiter.tryAcquire("user:testUser")); //VERIFY BUCKET IS EMPTY
+        Assertions.assertEquals(1, limiter.getRejectedAttempts());
+
+        now += 1_000;
+        Assertions.assertTrue(limiter.tryAcquire("user:testUser")); //VERIFY ONE TOKEN CAME BACK
+    }
+
+// NEGATIVE CASE: TOO MANY FAILURES LOCK THE KEY OUT UNTIL THE WINDOW PASSES
+    @Test
+    public void testRecordFailure_Lockout() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user:testUser");
+            limiter.recordFailure("user:testUser");
+            now += 1_000;
+        }
+
+        Assertions.assertTrue(limiter.isLockedOut("user:testUser"));
+        Assertions.assertFalse(limiter.tryAcquire("user:testUser"));
+        Assertions.assertEquals(1, limiter.getLockouts());
+
+        now += 60_000;
+        Assertions.assertTrue(limiter.tryAcquire("user:testUser"));
+    }
+
+// EDGE CASE: FAILURES OLDER THAN THE FAILURE WINDOW ARE FORGOTTEN
+    @Test
+    public void testRecordFailure_Expires() {
+        limiter.tryAcquire("user:testUser");
+        limiter.recordFailure("user:testUser");
+        limiter.recordFailure("user:testUser");
+
+        now += 11_000;
+        limiter.tryAcquire("user:testUser");
+        limiter.recordFailure("user:testUser");
+        limiter.recordFailure("user:testUser");
+
+        Assertions.assertFalse(limiter.isLockedOut("user:testUser"));
+    }
+
+// EDGE CASE: A SUCCESS RESETS THE FAILURE COUNT
+    @Test
+    public void testRecordSuccess_ResetsFailures() {
+        limiter.tryAcquire("user:testUser");
+        limiter.recordFailure("user:testUser");
+        limiter.recordFailure("user:testUser");
+        limiter.recordSuccess("user:testUser");
+        limiter.recordFailure("user:testUser");
+
+        Assertions.assertFalse(limiter.isLockedOut("user:testUser"));
+    }
+
+// EDGE CASE: A FULL TABLE EVICTS THE LEAST RECENTLY SEEN KEYS INSTEAD OF REJECTING NEW ONES
+    @Test
+    public void testTryAcquire_FullTableEvictsOldest() {
+        for (String key : new String[]{"user:a", "user:b", "user:c", "user:d"}) {
+            limiter.tryAcquire(key);
+            limiter.recordFailure(key); //VERIFY KEYS WITH FAILURES ARE NOT IDLE
+            now += 100;
+        }
+
+        Assertions.assertTrue(limiter.tryAcquire("user:e"));
+        Assertions.assertTrue(limiter.getTrackedKeys() <= 4);
+        Assertions.assertEquals(1, limiter.getEvictions()); //VERIFY ONLY THE OLDEST KEY WAS DROPPED
+        Assertions.assertFalse(limiter.isLockedOut("user:b"));
+    }
+
+// NEGATIVE CASE: FAILED LOGINS FOR FAKE USERNAMES DON'T LOCK OUT A REAL USER WHO WAS NOT TRACKED YET
+    @Test
+    public void testLoginUser_FakeUsernamesDontBlockRealUsers() {
+        LoginRateLimiter smallLimiter = new LoginRateLimiter(2, 1_000, 3, 10_000, 60_000, 3, () -> now);
+        UserService userService = new UserService(smallLimiter);
+        userService.registerUser(new User("alice", "alicePassword", "alice@google.com"));
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertNull(userService.loginUser("fake" + i, "wrongPassword"));
+        }
+
+        Assertions.assertNotNull(userService.loginUser("alice", "alicePassword"));
+        now += 24 * 60 * 60 * 1_000;
+        Assertions.assertNotNull(userService.loginUser("alice", "alicePassword"));
+    }
+
+// NEGATIVE CASE: A BLOCKED SOURCE DOES NOT DRAIN THE USERNAME'S BUCKET, A SUCCESS RESETS THE SOURCE
+    @Test
+    public void testLoginUser_SourceCheckedFirst() {
+        UserService userService = new UserService(limiter);
+        userService.registerUser(new User("alice", "alicePassword", "alice@google.com"));
+
+        Assertions.assertNull(userService.loginUser("bob", "wrongPassword", "10.0.0.1"));
+        Assertions.assertNull(userService.loginUser("bob", "wrongPassword", "10.0.0.1"));
+        Assertions.assertNull(userService.loginUser("alice", "alicePassword", "10.0.0.1")); //VERIFY SOURCE BUCKET IS EMPTY
+        Assertions.assertTrue(limiter.tryAcquire("user:alice")); //VERIFY ALICE'S BUCKET WAS NOT CHARGED
+        Assertions.assertTrue(limiter.tryAcquire("user:alice"));
+
+        now += 2_000;
+        Assertions.assertNotNull(userService.loginUser("alice", "alicePassword", "10.0.0.1"));
+        Assertions.assertNull(userService.loginUser("bob", "wrongPassword", "10.0.0.1"));
+        Assertions.assertFalse(limiter.isLockedOut("source:10.0.0.1")); //VERIFY THE SUCCESS RESET THE SOURCE FAILURES
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReviewAnalyticsTest {
+    private ReviewAnalytics reviewAnalytics;
+    private Book testBook;
+
+//TEST SETUP
+    @BeforeEach
+    public void setUp() {
+        reviewAnalytics = new ReviewAnalytics(2);
+        testBook = new Book("Test Book", "Test Author", "Test Genre", 10.99);
+    }
+
+// POSITIVE CASE: EVERY RECORDED REVIEW IS COUNTED
+    @Test
+    public void testGetReviewCount() {
+        reviewAnalytics.recordReview(testBook, "Great book!");
+        reviewAnalytics.recordReview(testBook, "Boring.");
+
+        Assertions.assertEquals(2, reviewAnalytics.getReviewCount(testBook));
+    }
+
+// POSITIVE CASE: TERMS ARE COUNTED CASE-INSENSITIVELY, KEYWORDS SKIP STOP WORDS
+    @Test
+    public void testTermFrequency_AndKeywords() {
+        reviewAnalytics.recordReview(testBook, "The plot is great, the plot twists are great.");
+        reviewAnalytics.recordReview(testBook, "The PLOT!");
+
+        Assertions.assertEquals(3, reviewAnalytics.getTermFrequency(testBook, "plot"));
+        Assertions.assertEquals(3, reviewAnalytics.getTermFrequency(testBook, "the")); //VERIFY STOP WORDS ARE STILL COUNTED
+        Assertions.assertEquals(List.of("plot", "great"), reviewAnalytics.getTopKeywords(testBook)); //VERIFY "THE" IS NOT A KEYWORD
+    }
+
+// POSITIVE CASE: POSITIVE AND NEGATIVE WORDS MOVE THE SENTIMENT SCORE
+    @Test
+    public void testSentiment() {
+        reviewAnalytics.recordReview(testBook, "Great book, highly recommend!");
+        reviewAnalytics.recordReview(testBook, "Terrible.");
+
+        Assertions.assertEquals(1, reviewAnalytics.getSentimentScore(testBook));
+        Assertions.assertEquals(0.5, reviewAnalytics.getAverageSentiment(testBook));
+    }
+
+// EDGE CASE: A NEGATION FLIPS ONLY THE WORD RIGHT AFTER IT
+    @Test
+    public void testSentiment_Negation() {
+        reviewAnalytics.recordReview(testBook, "Not good.");
+        Assertions.assertEquals(-1, reviewAnalytics.getSentimentScore(testBook));
+
+        reviewAnalytics.recordReview(testBook, "Not ' good."); //VERIFY A STRAY APOSTROPHE BREAKS THE NEGATION
+        Assertions.assertEquals(0, reviewAnalytics.getSentimentScore(testBook));
+    }
+
+// POSITIVE CASE: REVIEWS ALREADY ATTACHED TO A BOOK ARE PICKED UP BY ADDBOOK
+    @Test
+    public void testAddBook_ExistingReviews() {
+        BookService bookService = new BookService();
+        Book reviewedBook = new Book("Book 1", "Author 1", "Genre 1", 12.99,
+                new ArrayList<>(List.of("Loved it", "Loved the ending")));
+
+        bookService.addBook(reviewedBook);
+
+        Assertions.assertEquals(2, bookService.getReviewAnalytics().getReviewCount(reviewedBook));
+        Assertions.assertEquals(2, bookService.getReviewAnalytics().getTermFrequency(reviewedBook, "loved"));
+    }
+
+// NEGATIVE CASE: REMOVING A BOOK FORGETS ITS REVIEW STATS
+    @Test
+    public void testRemoveBook_ForgetsStats() {
+        BookService bookService = new BookService();
+        Book reviewedBook = new Book("Book 1", "Author 1", "Genre 1", 12.99, new ArrayList<>(List.of("Loved it")));
+        bookService.addBook(reviewedBook);
+
+        bookService.removeBook(reviewedBook);
+
+        Assertions.assertEquals(0, bookService.getReviewAnalytics().getReviewCount(reviewedBook));
+        Assertions.assertEquals(0, bookService.getReviewAnalytics().getTermFrequency(reviewedBook, "loved"));
+        Assertions.assertTrue(bookService.getReviewAnalytics().getTopKeywords(reviewedBook).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserServiceEmailTest {
+    private UserService userService;
+    private User testUser;
+
+//TEST SETUP: ONE REGISTERED USER
+    @BeforeEach
+    public void setUp() {
+        userService = new UserService();
+        testUser = new User("testUser", "testPassword", "test@google.com");
+        userService.registerUser(testUser);
+    }
+
+// POSITIVE CASE: LOOKUP IGNORES CASE AND SURROUNDING SPACES
+    @Test
+    public void testFindByEmail() {
+        Assertions.assertSame(testUser, userService.findByEmail("test@google.com"));
+        Assertions.assertSame(testUser, userService.findByEmail("  TEST@Google.com "));
+        Assertions.assertNull(userService.findByEmail("other@google.com"));
+    }
+
+// NEGATIVE CASE: REGISTERING THE SAME EMAIL AGAIN FAILS, EVEN WITH DIFFERENT CASE OR SPACES
+    @Test
+    public void testRegisterUser_DuplicateEmail() {
+        Assertions.assertFalse(userService.registerUser(new User("otherUser", "password", "test@google.com")));
+        Assertions.assertFalse(userService.registerUser(new User("otherUser", "password", " Test@GOOGLE.com ")));
+        Assertions.assertTrue(userService.registerUser(new User("otherUser", "password", "other@google.com")));
+    }
+
+// NEGATIVE CASE: UPDATING TO AN EMAIL ANOTHER USER OWNS FAILS AND CHANGES NOTHING
+    @Test
+    public void testUpdateUserProfile_EmailConflict() {
+        User otherUser = new User("otherUser", "password", "other@google.com");
+        userService.registerUser(otherUser);
+
+        boolean result = userService.updateUserProfile(testUser, "newUsername", "Password123", "OTHER@google.com");
+        Assertions.assertFalse(result, "User profile update fail-duplicate email");
+        Assertions.assertEquals("testUser", testUser.getUsername());
+        Assertions.assertSame(otherUser, userService.findByEmail("other@google.com"));
+        Assertions.assertSame(testUser, userService.findByEmail("test@google.com"));
+    }
+
+// POSITIVE CASE: THE OLD EMAIL IS FREED AFTER AN UPDATE
+    @Test
+    public void testUpdateUserProfile_FreesOldEmail() {
+        Assertions.assertTrue(userService.updateUserProfile(testUser, "newUsername", "Password123", "hello@google.com"));
+
+        Assertions.assertSame(testUser, userService.findByEmail("hello@google.com"));
+        Assertions.assertNull(userService.findByEmail("test@google.com"));
+        Assertions.assertTrue(userService.registerUser(new User("otherUser", "password", "test@google.com")));
+    }
+
+// POSITIVE CASE: THE OLD USERNAME NO LONGER LOGS IN AFTER A RENAME
+    @Test
+    public void testUpdateUserProfile_DropsOldUsername() {
+        Assertions.assertTrue(userService.updateUserProfile(testUser, "newUsername", "Password123", "hello@google.com"));
+
+        Assertions.assertNull(userService.loginUser("testUser", "Password123"));
+        Assertions.assertSame(testUser, userService.loginUser("newUsername", "Password123"));
+        Assertions.assertEquals(1, userService.getUsers().size());
+    }
+
+// NEGATIVE CASE: A USER THAT WAS NEVER REGISTERED CAN'T BE UPDATED OR CLAIM AN EMAIL
+    @Test
+    public void testUpdateUserProfile_Unregistered() {
+        User stranger = new User("stranger", "password", null);
+
+        Assertions.assertFalse(userService.updateUserProfile(stranger, "stranger2", "password", "free@google.com"));
+        Assertions.assertNull(userService.findByEmail("free@google.com"));
+    }
+
+// POSITIVE CASE: KEEPING THE SAME USERNAME AND ONLY CHANGING THE EMAIL SUCCEEDS
+    @Test
+    public void testUpdateUserProfile_EmailOnly() {
+        boolean result = userService.updateUserProfile(testUser, "testUser", "testPassword", "new@google.com");
+        Assertions.assertTrue(result, "User profile updated with a new email only");
+
+        Assertions.assertSame(testUser, userService.loginUser("testUser", "testPassword"));
+        Assertions.assertSame(testUser, userService.findByEmail("new@google.com"));
+        Assertions.assertNull(userService.findByEmail("test@google.com"));
+    }
+}
@@ -95,12 +95,12 @@ public class UserServiceTest {
 // POSITIVE CASE: REGISTER USER AND UPDATE PROFILE WITH A NEW USERNAME THAT ALREADY EXISTS
     @Test
     public void testUpdateUserProfile_Failure() {
-        when(userDatabase.containsKey(testUser.getUsername())).thenReturn(false, true);
+        when(userDatabase.containsKey("otherUser")).thenReturn(true);
 
-        boolean result = userService.updateUserProfile(testUser, testUser.getUsername(), "Password123", "hello@google.com");
+        boolean result = userService.updateUserProfile(testUser, "otherUser", "Password123", "hello@google.com");
         Assertions.assertFalse(result, "User profile update fail-duplicate username");
 
-        verify(userDatabase, times(2)).containsKey(testUser.getUsername());
+        verify(userDatabase).containsKey("otherUser");
         verify(userDatabase, never()).put(anyString(), any(User.class));
     }
 
@@ -196,8 +196,9 @@ public class UserServiceTest {
 //    @Test
 //    public void testUpdateUserProfile_Failure() {
 //        userService.registerUser(testUser);
+//        userService.registerUser(new User("otherUser", "password", "other@google.com"));
 //
-//        boolean result = userService.updateUserProfile(testUser, testUser.getUsername(), "Password123", "hello@google.com");
+//        boolean result = userService.updateUserProfile(testUser, "otherUser", "Password123", "hello@google.com");
 //        Assertions.assertFalse(result, "User profile update fail-duplicate username");
 //    }
 //